@@ -14,13 +14,21 @@
 package org.cyclonedx.schema;
 
 import org.apache.commons.io.IOUtils;
+import org.apache.commons.lang3.StringUtils;
+import org.junit.jupiter.api.AfterAll;
 import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.Callable;
 
 public abstract class BaseSchemaVerificationTest {
 
+    @AfterAll
+    static void saveTimings() throws Exception {
+        FixtureTimings.INSTANCE.save();
+    }
+
     List<String> getAllResources() throws Exception {
         final List<String> files = new ArrayList<>();
         files.addAll(getResources("1.0/"));
@@ -44,4 +52,27 @@ public abstract class BaseSchemaVerificationTest {
         }
         return resources;
     }
+
+    /**
+     * Returns the schema version a fixture targets, e.g. {@code 1.6} for {@code valid-bom-1.6.json}.
+     *
+     * @param resourceName the fixture file name
+     * @return the schema version encoded in the file name
+     */
+    String getSchemaVersion(final String resourceName) {
+        return StringUtils.substringAfterLast(StringUtils.substringBeforeLast(resourceName, "."), "-");
+    }
+
+    /**
+     * Runs a fixture validation while recording its timing against the local baseline.
+     *
+     * @param resource       the fixture being validated
+     * @param schemaResource the classpath resource of the schema the fixture is validated against
+     * @param validation     the validation to run
+     * @return the result of the validation
+     * @throws Exception if the validation fails, or if a slowdown is flagged in strict mode
+     */
+    boolean timed(final String resource, final String schemaResource, final Callable<Boolean> validation) throws Exception {
+        return FixtureTimings.INSTANCE.measure(resource, schemaResource, validation);
+    }
 }
@@ -0,0 +1,222 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.cyclonedx.schema;
+
+import org.apache.commons.io.IOUtils;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.io.Writer;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeMap;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Records how long each fixture takes to validate and compares it against a baseline kept in a local
+ * properties file. A baseline entry is tied to a digest of the bom-1.x schema the fixture was validated
+ * against, so a fixture is only flagged when that schema changed and validation became noticeably slower.
+ * Flagged fixtures keep their previous baseline; delete the entry (or the whole file) to accept the new timing.
+ *
+ * <p>Timing is opt-in: it is enabled by pointing the {@code cyclonedx.timings.file} system property at the
+ * baseline file, otherwise every fixture is validated exactly once. Fixtures are timed by the CPU time of the
+ * validating thread, so other fixtures validated concurrently do not skew each other's results. Setting
+ * {@code cyclonedx.timings.strict} to {@code true} turns flagged fixtures into test failures instead of
+ * warnings.</p>
+ */
+final class FixtureTimings {
+
+    static final FixtureTimings INSTANCE = new FixtureTimings(
+            System.getProperty("cyclonedx.timings.file") != null
+                    ? new File(System.getProperty("cyclonedx.timings.file")) : null,
+            Boolean.getBoolean("cyclonedx.timings.strict"));
+
+    /** Untimed validations per fixture, so JIT warm-up is not charged to whichever fixture runs first. */
+    private static final int WARMUPS = 3;
+    /** Timed validations per fixture; the median is recorded. */
+    private static final int RUNS = 9;
+    /** A fixture is flagged when it became this many times slower than its baseline... */
+    private static final double SLOWDOWN_FACTOR = 3.0;
+    /** ...and the slowdown is larger than this, so sub-millisecond jitter is never reported. */
+    private static final long SLOWDOWN_FLOOR_NANOS = 5_000_000L;
+
+    private final File file;
+    private final boolean strict;
+    private final ThreadMXBean threads;
+    private final Map<String, Entry> baseline = new ConcurrentHashMap<>();
+    private final Map<String, Entry> current = new ConcurrentHashMap<>();
+    private final Map<String, String> digests = new ConcurrentHashMap<>();
+
+    /**
+     * @param file   the baseline file, or {@code null} to disable timing
+     * @param strict whether a flagged fixture fails instead of printing a warning
+     */
+    FixtureTimings(File file, boolean strict) {
+        this.file = file;
+        this.strict = strict;
+        this.threads = ManagementFactory.getThreadMXBean();
+        if (file != null) {
+            if (!threads.isCurrentThreadCpuTimeSupported()) {
+                throw new IllegalStateException("Fixture timings require thread CPU time measurement");
+            }
+            threads.setThreadCpuTimeEnabled(true);
+            load();
+        }
+    }
+
+    /**
+     * Runs the validation of a fixture. When timing is enabled, also records its timing and compares it
+     * against the baseline.
+     *
+     * @param resource       the fixture being validated
+     * @param schemaResource the classpath resource of the bom-1.x schema the fixture is validated against
+     * @param validation     the validation to time
+     * @return the result of the validation
+     * @throws Exception if the validation fails, or if the fixture is flagged in strict mode
+     */
+    boolean measure(String resource, String schemaResource, Callable<Boolean> validation) throws Exception {
+        if (file == null) {
+            return validation.call();
+        }
+        boolean result = false;
+        for (int i = 0; i < WARMUPS; i++) {
+            result = validation.call();
+        }
+        final long[] samples = new long[RUNS];
+        for (int i = 0; i < RUNS; i++) {
+            final long start = threads.getCurrentThreadCpuTime();
+            result = validation.call();
+            samples[i] = threads.getCurrentThreadCpuTime() - start;
+        }
+        Arrays.sort(samples);
+        final Entry measured = new Entry(schemaResource, digest(schemaResource), samples[RUNS / 2]);
+        final Entry previous = baseline.get(resource);
+        if (previous != null && isSlowdown(previous, measured)) {
+            current.put(resource, previous);
+            final String message = String.format(
+                    "%s validated in %.2f ms against %s, baseline was %.2f ms against a previous revision of %s",
+                    resource, measured.nanos / 1e6, schemaResource, previous.nanos / 1e6, previous.schema);
+            if (strict) {
+                throw new AssertionError(message);
+            }
+            System.err.println("[WARNING] Validation slowdown: " + message);
+        } else {
+            current.put(resource, measured);
+        }
+        return result;
+    }
+
+    /**
+     * Writes the baseline, merging the timings recorded so far with entries for fixtures not run this time.
+     *
+     * @throws IOException if the baseline file cannot be written
+     */
+    synchronized void save() throws IOException {
+        if (file == null) {
+            return;
+        }
+        final Map<String, Entry> merged = new TreeMap<>(baseline);
+        merged.putAll(current);
+        final File parent = file.getAbsoluteFile().getParentFile();
+        if (parent != null) {
+            Files.createDirectories(parent.toPath());
+        }
+        try (Writer writer = Files.newBufferedWriter(file.toPath(), StandardCharsets.UTF_8)) {
+            writer.write("# Fixture validation timings: <schema>|<schema sha-256>|<median CPU nanoseconds>\n");
+            for (Map.Entry<String, Entry> entry : merged.entrySet()) {
+                writer.write(entry.getKey() + "=" + entry.getValue() + "\n");
+            }
+        }
+    }
+
+    private boolean isSlowdown(Entry previous, Entry measured) {
+        return !previous.digest.equals(measured.digest)
+                && measured.nanos > previous.nanos * SLOWDOWN_FACTOR
+                && measured.nanos - previous.nanos > SLOWDOWN_FLOOR_NANOS;
+    }
+
+    private void load() {
+        if (!file.isFile()) {
+            return;
+        }
+        final Properties properties = new Properties();
+        try (Reader reader = Files.newBufferedReader(file.toPath(), StandardCharsets.UTF_8)) {
+            properties.load(reader);
+        } catch (IOException e) {
+            throw new IllegalStateException("Unable to read fixture timings from " + file, e);
+        }
+        for (String resource : properties.stringPropertyNames()) {
+            final Entry entry = Entry.parse(properties.getProperty(resource));
+            if (entry != null) {
+                baseline.put(resource, entry);
+            }
+        }
+    }
+
+    private String digest(String schemaResource) {
+        return digests.computeIfAbsent(schemaResource, name -> {
+            try (InputStream in = FixtureTimings.class.getClassLoader().getResourceAsStream(name)) {
+                if (in == null) {
+                    throw new IllegalStateException("Schema not found on the classpath: " + name);
+                }
+                final StringBuilder hex = new StringBuilder();
+                for (byte b : MessageDigest.getInstance("SHA-256").digest(IOUtils.toByteArray(in))) {
+                    hex.append(String.format("%02x", b));
+                }
+                return hex.toString();
+            } catch (IOException | NoSuchAlgorithmException e) {
+                throw new IllegalStateException("Unable to digest schema " + name, e);
+            }
+        });
+    }
+
+    private static final class Entry {
+
+        private final String schema;
+        private final String digest;
+        private final long nanos;
+
+        private Entry(String schema, String digest, long nanos) {
+            this.schema = schema;
+            this.digest = digest;
+            this.nanos = nanos;
+        }
+
+        private static Entry parse(String value) {
+            final String[] parts = value.split("\\|");
+            if (parts.length != 3) {
+                return null;
+            }
+            try {
+                return new Entry(parts[0], parts[1], Long.parseLong(parts[2]));
+            } catch (NumberFormatException e) {
+                return null;
+            }
+        }
+
+        @Override
+        public String toString() {
+            return schema + "|" + digest + "|" + nanos;
+        }
+    }
+}
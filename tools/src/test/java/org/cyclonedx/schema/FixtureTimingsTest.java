@@ -0,0 +1,136 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.cyclonedx.schema;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class FixtureTimingsTest {
+
+    private static final String SCHEMA = "bom-1.6.schema.json";
+
+    /** CPU time of a stable fixture, far below the slowdown floor. */
+    private static final long STABLE_NANOS = 50_000L;
+    /** CPU time of a slow fixture, enough to clear the slowdown floor. */
+    private static final long SLOW_NANOS = 8_000_000L;
+
+    private static final ThreadMXBean THREADS = ManagementFactory.getThreadMXBean();
+
+    @TempDir
+    File tempDir;
+
+    @Test
+    void validatesOnceWhenDisabled() throws Exception {
+        final FixtureTimings timings = new FixtureTimings(null, true);
+        final AtomicInteger calls = new AtomicInteger();
+        assertTrue(timings.measure("fixture", SCHEMA, () -> calls.incrementAndGet() > 0));
+        assertEquals(1, calls.get());
+        timings.save();
+        assertEquals(0, tempDir.list().length);
+    }
+
+    @Test
+    void stableTimingsAreNotFlagged() throws Exception {
+        final File file = new File(tempDir, "timings.properties");
+        measureConcurrently(new FixtureTimings(file, true));
+        simulateSchemaChange(file);
+        // Strict mode throws on any flagged fixture.
+        measureConcurrently(new FixtureTimings(file, true));
+    }
+
+    @Test
+    void slowdownIsFlagged() throws Exception {
+        final File file = new File(tempDir, "timings.properties");
+        final FixtureTimings baseline = new FixtureTimings(file, true);
+        baseline.measure("fixture", SCHEMA, () -> work(STABLE_NANOS));
+        baseline.save();
+        final String recorded = new String(Files.readAllBytes(file.toPath()), StandardCharsets.UTF_8);
+
+        // An unchanged schema is never flagged, however much slower the fixture got.
+        new FixtureTimings(file, true).measure("fixture", SCHEMA, () -> work(SLOW_NANOS));
+
+        simulateSchemaChange(file);
+        final FixtureTimings changed = new FixtureTimings(file, true);
+        assertThrows(AssertionError.class, () -> changed.measure("fixture", SCHEMA, () -> work(SLOW_NANOS)));
+        changed.save();
+        // The flagged fixture keeps its previous timing.
+        assertEquals(timingOf(recorded), timingOf(new String(Files.readAllBytes(file.toPath()), StandardCharsets.UTF_8)));
+    }
+
+    /**
+     * Measures fixtures of increasing cost on more threads than there are cores, like a parallel test run does.
+     */
+    private static void measureConcurrently(FixtureTimings timings) throws Exception {
+        final ExecutorService executor = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors() * 2);
+        try {
+            final List<Future<Boolean>> results = new ArrayList<>();
+            for (int i = 1; i <= 8; i++) {
+                final String resource = "fixture-" + i;
+                final long nanos = i * STABLE_NANOS;
+                results.add(executor.submit(() -> timings.measure(resource, SCHEMA, () -> work(nanos))));
+            }
+            for (Future<Boolean> result : results) {
+                assertFalse(result.get());
+            }
+        } finally {
+            executor.shutdown();
+        }
+        timings.save();
+    }
+
+    /**
+     * Replaces the recorded schema digests, as if the schema had been edited since the baseline was taken.
+     */
+    private static void simulateSchemaChange(File file) throws Exception {
+        final String content = new String(Files.readAllBytes(file.toPath()), StandardCharsets.UTF_8);
+        Files.write(file.toPath(), content.replaceAll("\\|[0-9a-f]{64}\\|", "|changed|")
+                .getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String timingOf(String content) {
+        return content.substring(content.lastIndexOf('|') + 1).trim();
+    }
+
+    /**
+     * A CPU-bound stand-in for a validation, busy for the given CPU time of the current thread.
+     */
+    private static boolean work(long nanos) {
+        final long end = THREADS.getCurrentThreadCpuTime() + nanos;
+        long x = 1;
+        while (THREADS.getCurrentThreadCpuTime() < end) {
+            for (int i = 0; i < 1_000; i++) {
+                x ^= x << 13;
+                x ^= x >>> 7;
+                x ^= x << 17;
+            }
+        }
+        return x == 0;
+    }
+}
@@ -36,7 +36,11 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import org.apache.commons.lang3.StringUtils;
 import org.junit.jupiter.api.DynamicTest;
 import org.junit.jupiter.api.TestFactory;
@@ -49,14 +53,19 @@ class JsonSchemaVerificationTest extends BaseSchemaVerificationTest {
     private static final String SPDX_NAMESPACE = "http://cyclonedx.org/schema/spdx.schema.json";
     private static final String CRYPTO_DEF_NAMESPACE = "http://cyclonedx.org/schema/cryptography-defs.schema.json";
 
-    private static final JsonSchema VERSION_12;
-    private static final JsonSchema VERSION_13;
-    private static final JsonSchema VERSION_14;
-    private static final JsonSchema VERSION_15;
-    private static final JsonSchema VERSION_16;
-    private static final JsonSchema VERSION_17;
+    private static final Map<String, String> SCHEMA_RESOURCES;
+    private static final Map<String, JsonSchema> SCHEMAS;
 
     static {
+        Map<String, String> resources = new LinkedHashMap<>();
+        resources.put("1.2", "bom-1.2-strict.schema.json");
+        resources.put("1.3", "bom-1.3-strict.schema.json");
+        resources.put("1.4", "bom-1.4.schema.json");
+        resources.put("1.5", "bom-1.5.schema.json");
+        resources.put("1.6", "bom-1.6.schema.json");
+        resources.put("1.7", "bom-1.7.schema.json");
+        SCHEMA_RESOURCES = Collections.unmodifiableMap(resources);
+
         JsonMetaSchemaFactory metaSchemaFactory = new DefaultJsonMetaSchemaFactory() {
             @Override
             public JsonMetaSchema getMetaSchema(
@@ -73,12 +82,14 @@ class JsonSchemaVerificationTest extends BaseSchemaVerificationTest {
                         .mapPrefix(JSF_NAMESPACE, "classpath:jsf-0.82.schema.json")
                         .mapPrefix(CRYPTO_DEF_NAMESPACE, "classpath:cryptography-defs.schema.json")
                 ).build();
-        VERSION_12 = factory.getSchema(SchemaLocation.of("classpath:bom-1.2-strict.schema.json"));
-        VERSION_13 = factory.getSchema(SchemaLocation.of("classpath:bom-1.3-strict.schema.json"));
-        VERSION_14 = factory.getSchema(SchemaLocation.of("classpath:bom-1.4.schema.json"));
-        VERSION_15 = factory.getSchema(SchemaLocation.of("classpath:bom-1.5.schema.json"));
-        VERSION_16 = factory.getSchema(SchemaLocation.of("classpath:bom-1.6.schema.json"));
-        VERSION_17 = factory.getSchema(SchemaLocation.of("classpath:bom-1.7.schema.json"));
+        Map<String, JsonSchema> schemas = new HashMap<>();
+        for (Map.Entry<String, String> entry : SCHEMA_RESOURCES.entrySet()) {
+            JsonSchema schema = factory.getSchema(SchemaLocation.of("classpath:" + entry.getValue()));
+            // Resolve all references up front, the fixtures are validated concurrently.
+            schema.initializeValidators();
+            schemas.put(entry.getKey(), schema);
+        }
+        SCHEMAS = Collections.unmodifiableMap(schemas);
     }
 
     private static JsonMetaSchema addCustomKeywords(JsonMetaSchema metaSchema) {
@@ -97,14 +108,16 @@ class JsonSchemaVerificationTest extends BaseSchemaVerificationTest {
         for (final String resource : resources) {
             String resourceName = StringUtils.substringAfterLast(resource, "/");
             if (resourceName.endsWith(".json")) {
-                JsonSchema schema = getSchema(resourceName);
+                String version = getSchemaVersion(resourceName);
+                JsonSchema schema = SCHEMAS.get(version);
                 if (schema != null) {
+                    String schemaResource = SCHEMA_RESOURCES.get(version);
                     if (resourceName.startsWith("valid")) {
-                        dynamicTests.add(DynamicTest.dynamicTest(
-                                resource, () -> assertTrue(isValid(schema, resource), resource)));
+                        dynamicTests.add(DynamicTest.dynamicTest(resource, () -> assertTrue(
+                                timed(resource, schemaResource, () -> isValid(schema, resource)), resource)));
                     } else if (resourceName.startsWith("invalid")) {
-                        dynamicTests.add(DynamicTest.dynamicTest(
-                                resource, () -> assertFalse(isValid(schema, resource), resource)));
+                        dynamicTests.add(DynamicTest.dynamicTest(resource, () -> assertFalse(
+                                timed(resource, schemaResource, () -> isValid(schema, resource)), resource)));
                     }
                 }
             }
@@ -121,26 +134,4 @@ class JsonSchemaVerificationTest extends BaseSchemaVerificationTest {
             return false;
         }
     }
-
-    private JsonSchema getSchema(String resourceName) {
-        if (resourceName.endsWith("-1.2.json")) {
-            return VERSION_12;
-        }
-        if (resourceName.endsWith("-1.3.json")) {
-            return VERSION_13;
-        }
-        if (resourceName.endsWith("-1.4.json")) {
-            return VERSION_14;
-        }
-        if (resourceName.endsWith("-1.5.json")) {
-            return VERSION_15;
-        }
-        if (resourceName.endsWith("-1.6.json")) {
-            return VERSION_16;
-        }
-        if (resourceName.endsWith("-1.7.json")) {
-            return VERSION_17;
-        }
-        return null;
-    }
 }
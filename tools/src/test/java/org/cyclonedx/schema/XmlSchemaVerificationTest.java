@@ -16,9 +16,14 @@ package org.cyclonedx.schema;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import javax.xml.XMLConstants;
 import javax.xml.transform.stream.StreamSource;
 import javax.xml.validation.Schema;
@@ -33,16 +38,21 @@ import org.xml.sax.SAXParseException;
 
 public class XmlSchemaVerificationTest extends BaseSchemaVerificationTest {
 
-    private static final Schema VERSION_10;
-    private static final Schema VERSION_11;
-    private static final Schema VERSION_12;
-    private static final Schema VERSION_13;
-    private static final Schema VERSION_14;
-    private static final Schema VERSION_15;
-    private static final Schema VERSION_16;
-    private static final Schema VERSION_17;
+    private static final Map<String, String> SCHEMA_RESOURCES;
+    private static final Map<String, Schema> SCHEMAS;
 
     static {
+        Map<String, String> resources = new LinkedHashMap<>();
+        resources.put("1.0", "bom-1.0.xsd");
+        resources.put("1.1", "bom-1.1.xsd");
+        resources.put("1.2", "bom-1.2.xsd");
+        resources.put("1.3", "bom-1.3.xsd");
+        resources.put("1.4", "bom-1.4.xsd");
+        resources.put("1.5", "bom-1.5.xsd");
+        resources.put("1.6", "bom-1.6.xsd");
+        resources.put("1.7", "bom-1.7.xsd");
+        SCHEMA_RESOURCES = Collections.unmodifiableMap(resources);
+
         try {
             SchemaFactory factory = SchemaFactory.newInstance(XMLConstants.W3C_XML_SCHEMA_NS_URI);
             factory.setProperty(XMLConstants.ACCESS_EXTERNAL_SCHEMA, "file");
@@ -51,14 +61,11 @@ public class XmlSchemaVerificationTest extends BaseSchemaVerificationTest {
             factory.setProperty(
                     "http://apache.org/xml/properties/schema/external-schemaLocation",
                     "http://cyclonedx.org/schema/spdx spdx.xsd");
-            VERSION_10 = factory.newSchema(cl.getResource("bom-1.0.xsd"));
-            VERSION_11 = factory.newSchema(cl.getResource("bom-1.1.xsd"));
-            VERSION_12 = factory.newSchema(cl.getResource("bom-1.2.xsd"));
-            VERSION_13 = factory.newSchema(cl.getResource("bom-1.3.xsd"));
-            VERSION_14 = factory.newSchema(cl.getResource("bom-1.4.xsd"));
-            VERSION_15 = factory.newSchema(cl.getResource("bom-1.5.xsd"));
-            VERSION_16 = factory.newSchema(cl.getResource("bom-1.6.xsd"));
-            VERSION_17 = factory.newSchema(cl.getResource("bom-1.7.xsd"));
+            Map<String, Schema> schemas = new HashMap<>();
+            for (Map.Entry<String, String> entry : SCHEMA_RESOURCES.entrySet()) {
+                schemas.put(entry.getKey(), factory.newSchema(cl.getResource(entry.getValue())));
+            }
+            SCHEMAS = Collections.unmodifiableMap(schemas);
         } catch (SAXException e) {
             throw new IllegalStateException(e);
         }
@@ -77,14 +84,16 @@ public class XmlSchemaVerificationTest extends BaseSchemaVerificationTest {
         for (final String resource : resources) {
             String resourceName = StringUtils.substringAfterLast(resource, "/");
             if (resourceName.endsWith(".xml")) {
-                Schema schema = getSchema(resourceName);
+                String version = getSchemaVersion(resourceName);
+                Schema schema = SCHEMAS.get(version);
                 if (schema != null) {
+                    String schemaResource = SCHEMA_RESOURCES.get(version);
                     if (resourceName.startsWith("valid")) {
-                        dynamicTests.add(DynamicTest.dynamicTest(
-                                resource, () -> assertTrue(isValid(schema, resource), resource)));
+                        dynamicTests.add(DynamicTest.dynamicTest(resource, () -> assertTrue(
+                                timed(resource, schemaResource, () -> isValid(schema, resource)), resource)));
                     } else if (resourceName.startsWith("invalid")) {
-                        dynamicTests.add(DynamicTest.dynamicTest(
-                                resource, () -> assertFalse(isValid(schema, resource), resource)));
+                        dynamicTests.add(DynamicTest.dynamicTest(resource, () -> assertFalse(
+                                timed(resource, schemaResource, () -> isValid(schema, resource)), resource)));
                     }
                 }
             }
@@ -118,39 +127,11 @@ public class XmlSchemaVerificationTest extends BaseSchemaVerificationTest {
                 throw exception;
             }
         });
-        try {
-            validator.validate(new StreamSource(getClass().getClassLoader().getResourceAsStream(resource)));
+        try (InputStream input = getClass().getClassLoader().getResourceAsStream(resource)) {
+            validator.validate(new StreamSource(input));
         } catch (SAXParseException e) {
             return false;
         }
         return true;
     }
-
-    private Schema getSchema(String resourceName) {
-        if (resourceName.endsWith("-1.0.xml")) {
-            return VERSION_10;
-        }
-        if (resourceName.endsWith("-1.1.xml")) {
-            return VERSION_11;
-        }
-        if (resourceName.endsWith("-1.2.xml")) {
-            return VERSION_12;
-        }
-        if (resourceName.endsWith("-1.3.xml")) {
-            return VERSION_13;
-        }
-        if (resourceName.endsWith("-1.4.xml")) {
-            return VERSION_14;
-        }
-        if (resourceName.endsWith("-1.5.xml")) {
-            return VERSION_15;
-        }
-        if (resourceName.endsWith("-1.6.xml")) {
-            return VERSION_16;
-        }
-        if (resourceName.endsWith("-1.7.xml")) {
-            return VERSION_17;
-        }
-        return null;
-    }
 }
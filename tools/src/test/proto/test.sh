@@ -118,14 +118,53 @@ function schema-functional () {
         --to /dev/null
   }
 
-  local SCHEMA_VERS
+  # runs `validate` with its output captured, so that concurrent jobs don't interleave their output.
+  # the output is printed in one piece once the job is done; failing files are recorded in $FAILURES.
+  function validate-logged() {
+    local FILE="$1"
+    local LOG RC=0
+    LOG="$(mktemp)"
+    validate "$@" > "$LOG" 2>&1 || RC=$?
+    cat "$LOG" >&2
+    rm -f "$LOG"
+    if [[ "$RC" -ne 0 ]]
+    then
+      realpath --relative-to="$PWD" "$FILE" >> "$FAILURES"
+    fi
+    return "$RC"
+  }
+
+  # examples are independent of each other -> validate them concurrently, one container per core
+  local SCHEMA_VERS FAILURES JOBS
+  local RUNNING=0 FAILED=0
+  JOBS="$(nproc)"
+  FAILURES="$(mktemp)"
   shopt -s globstar
   for test_res in "$ROOT_PATH"/"$TEST_RES_DIR"/*/valid-*.textproto
   do
+    if [[ "$RUNNING" -ge "$JOBS" ]]
+    then
+      wait -n || FAILED=1
+      RUNNING=$((RUNNING - 1))
+    fi
     SCHEMA_VERS="$(basename "$(dirname "$test_res")")"
-    validate "$test_res" "$SCHEMA_VERS"
+    validate-logged "$test_res" "$SCHEMA_VERS" &
+    RUNNING=$((RUNNING + 1))
+  done
+  while [[ "$RUNNING" -gt 0 ]]
+  do
+    wait -n || FAILED=1
+    RUNNING=$((RUNNING - 1))
   done
 
+  if [[ "$FAILED" -ne 0 ]]
+  then
+    echo '>> FAILED:' >&2
+    sed 's/^/>>> /' "$FAILURES" >&2
+    rm -f "$FAILURES"
+    return 1
+  fi
+  rm -f "$FAILURES"
   echo '>> OK.' >&2
 }
 